@@ -17,6 +17,11 @@ public class AddressesProcessingApplicationProperties {
      */
     private String addressFileName;
 
+    /**
+     * Maximum entries count in each dictionary lookup cache
+     */
+    private int lookupCacheSize = 100000;
+
     public String getAddressFilePath() {
         return addressFilePath;
     }
@@ -25,6 +30,10 @@ public class AddressesProcessingApplicationProperties {
         return addressFileName;
     }
 
+    public int getLookupCacheSize() {
+        return lookupCacheSize;
+    }
+
     public void setAddressFilePath(String addressFilePath) {
         this.addressFilePath = addressFilePath;
     }
@@ -32,4 +41,8 @@ public class AddressesProcessingApplicationProperties {
     public void setAddressFileName(String addressFileName) {
         this.addressFileName = addressFileName;
     }
+
+    public void setLookupCacheSize(int lookupCacheSize) {
+        this.lookupCacheSize = lookupCacheSize;
+    }
 }
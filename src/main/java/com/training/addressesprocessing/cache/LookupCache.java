@@ -0,0 +1,172 @@
+package com.training.addressesprocessing.cache;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Thread safe size bounded cache for dictionary lookups.
+ * Concurrent requests for the same key share one load,
+ * null results (misses in dictionary) are cached as well.
+ * Eviction uses "second chance" algorithm: recently read entries survive one more round.
+ */
+public class LookupCache<K, V> {
+
+    private final int maximumSize;
+    private final ConcurrentMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final Queue<K> evictionQueue = new ConcurrentLinkedQueue<>();
+    private final Lock evictionLock = new ReentrantLock();
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    public LookupCache(int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Cache size must be positive: " + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * Get value by key, loading it (only once for all concurrent callers) if absent
+     */
+    public V get(K key, Function<K, V> loader) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            Entry<V> newEntry = new Entry<>();
+            entry = entries.putIfAbsent(key, newEntry);
+            if (entry == null) {
+                missCount.incrementAndGet();
+                return load(key, newEntry, loader);
+            }
+        }
+        hitCount.incrementAndGet();
+        if (!entry.referenced) {
+            entry.referenced = true;
+        }
+        try {
+            return entry.value.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Remove all entries and reset statistics
+     */
+    public void invalidateAll() {
+        evictionLock.lock();
+        try {
+            // queue first: key offered by load in progress can't be lost for entry which stays in cache
+            evictionQueue.clear();
+            entries.clear();
+            hitCount.set(0);
+            missCount.set(0);
+            evictionCount.set(0);
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    public int getSize() {
+        return entries.size();
+    }
+
+    @Override
+    public String toString() {
+        return "size=" + getSize() + ", hits=" + getHitCount()
+                + ", misses=" + getMissCount() + ", evictions=" + getEvictionCount();
+    }
+
+    /**
+     * Loading value by current thread and publishing it to the threads waiting for the same key
+     */
+    private V load(K key, Entry<V> entry, Function<K, V> loader) {
+        V value;
+        try {
+            value = loader.apply(key);
+        } catch (Throwable e) {
+            // don't keep failed loads, next call will try again
+            entries.remove(key, entry);
+            entry.value.completeExceptionally(e);
+            throw e;
+        }
+        entry.value.complete(value);
+        evictionQueue.offer(key);
+        evict();
+        return value;
+    }
+
+    /**
+     * Removing entries while cache is over size (by one thread at a time)
+     */
+    private void evict() {
+        while (entries.size() > maximumSize && evictionLock.tryLock()) {
+            boolean evicted;
+            try {
+                evicted = evictNext();
+            } finally {
+                evictionLock.unlock();
+            }
+            // key could be offered by thread which failed to get lock while queue was empty
+            if (!evicted && evictionQueue.isEmpty()) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Removing first entry which wasn't read since last pass, read entries get second chance
+     *
+     * @return false if there is nothing to evict (only entries being loaded are left)
+     */
+    private boolean evictNext() {
+        for (K key; (key = evictionQueue.poll()) != null; ) {
+            Entry<V> entry = entries.get(key);
+            if (entry == null) {
+                // key was offered by load which finished after invalidation
+                continue;
+            }
+            if (entry.referenced) {
+                entry.referenced = false;
+                evictionQueue.offer(key);
+            } else if (entries.remove(key, entry)) {
+                evictionCount.incrementAndGet();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static class Entry<V> {
+
+        private final CompletableFuture<V> value = new CompletableFuture<>();
+        private volatile boolean referenced;
+    }
+}
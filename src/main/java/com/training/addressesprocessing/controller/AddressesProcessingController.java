@@ -1,6 +1,7 @@
 package com.training.addressesprocessing.controller;
 
 import com.training.addressesprocessing.service.DbfProcessingService;
+import com.training.addressesprocessing.service.DictionaryLookupService;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -10,9 +11,12 @@ import org.springframework.web.bind.annotation.RestController;
 public class AddressesProcessingController {
 
     private final DbfProcessingService dbfProcessingService;
+    private final DictionaryLookupService dictionaryLookupService;
 
-    public AddressesProcessingController(DbfProcessingService dbfProcessingService) {
+    public AddressesProcessingController(DbfProcessingService dbfProcessingService,
+                                         DictionaryLookupService dictionaryLookupService) {
         this.dbfProcessingService = dbfProcessingService;
+        this.dictionaryLookupService = dictionaryLookupService;
     }
 
     /**
@@ -24,4 +28,12 @@ public class AddressesProcessingController {
         return "Process has started, look at log for details...";
     }
 
+    /**
+     * Method for getting dictionary lookup cache statistics
+     */
+    @GetMapping("/cache-statistics")
+    public String getCacheStatistics() {
+        return dictionaryLookupService.getStatistics();
+    }
+
 }
@@ -28,6 +28,18 @@ public class Settlement {
     @Column(name = "external_id")
     private String federalAddressCode;
 
+    protected Settlement() {
+    }
+
+    /**
+     * Copy of entity (for handing out cached dictionary records)
+     */
+    public Settlement(Settlement source) {
+        this.id = source.id;
+        this.addressCode = source.addressCode;
+        this.federalAddressCode = source.federalAddressCode;
+    }
+
     public Integer getId() {
         return id;
     }
@@ -27,6 +27,18 @@ public class Street {
     @Column(name = "external_id")
     private String federalAddressCode;
 
+    protected Street() {
+    }
+
+    /**
+     * Copy of entity (for handing out cached dictionary records)
+     */
+    public Street(Street source) {
+        this.id = source.id;
+        this.addressCode = source.addressCode;
+        this.federalAddressCode = source.federalAddressCode;
+    }
+
     public Integer getId() {
         return id;
     }
@@ -6,8 +6,6 @@ import com.training.addressesprocessing.AddressesProcessingApplicationProperties
 import com.training.addressesprocessing.domain.Settlement;
 import com.training.addressesprocessing.domain.Street;
 import com.training.addressesprocessing.model.ExternalAddressModel;
-import com.training.addressesprocessing.repository.SettlementRepository;
-import com.training.addressesprocessing.repository.StreetRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.scheduling.annotation.Async;
@@ -26,6 +24,7 @@ import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -47,18 +46,16 @@ public class DbfProcessingService {
     private static final int PACKAGE_PROCESSING_SIZE = 5000;
     private static final int THREAD_POOL_SIZE = 8;
 
-    private final SettlementRepository settlementRepository;
-    private final StreetRepository streetRepository;
+    private final DictionaryLookupService dictionaryLookupService;
     private final String fullPathArchive;
     private final File destinationFolder;
     private final BatchAddressService batchAddressService;
+    private final AtomicBoolean processing = new AtomicBoolean();
 
     public DbfProcessingService(AddressesProcessingApplicationProperties applicationProperties,
-                                SettlementRepository settlementRepository,
-                                StreetRepository streetRepository,
+                                DictionaryLookupService dictionaryLookupService,
                                 BatchAddressService batchAddressService) {
-        this.settlementRepository = settlementRepository;
-        this.streetRepository = streetRepository;
+        this.dictionaryLookupService = dictionaryLookupService;
         this.fullPathArchive = applicationProperties.getAddressFilePath()
                 + applicationProperties.getAddressFileName();
         this.destinationFolder = new File(applicationProperties.getAddressFilePath()
@@ -68,6 +65,23 @@ public class DbfProcessingService {
 
     @Async
     public void process() {
+        // runs share dictionary caches and temporary folder, so only one run at a time
+        if (!processing.compareAndSet(false, true)) {
+            logger.warn("Processing is already running, new start is ignored");
+            return;
+        }
+        try {
+            processFiles();
+        } finally {
+            processing.set(false);
+        }
+    }
+
+    /**
+     * Processing all files from archive (one run)
+     */
+    private void processFiles() {
+        dictionaryLookupService.invalidateAll();
         extractFiles(fullPathArchive, destinationFolder);
         ExecutorService executorService = Executors.newFixedThreadPool(THREAD_POOL_SIZE);
         List<Future<String>> results = new ArrayList<>();
@@ -92,6 +106,7 @@ public class DbfProcessingService {
             }
         }
         logger.info("All files are processed!");
+        logger.info("Dictionary lookup cache statistics: " + dictionaryLookupService.getStatistics());
     }
 
     /**
@@ -192,7 +207,7 @@ public class DbfProcessingService {
         int federalAddressCodeLength = externalAddressModel.getAddressCode().length();
         if (federalAddressCodeLength == 17) {
             Street street =
-                    streetRepository.getByAddressCode(externalAddressModel.getAddressCode());
+                    dictionaryLookupService.getStreetByAddressCode(externalAddressModel.getAddressCode());
             if (street != null) {
                 addStreetEntityToCollection(
                         processedDictionaryRecordCount,
@@ -201,7 +216,7 @@ public class DbfProcessingService {
                         streets);
             } else {
                 // attempt to find by part address code (-2 last digits)
-                streetRepository.findByAddressCode(
+                dictionaryLookupService.findStreetsByAddressCode(
                         getPartOfAddressCode(externalAddressModel.getAddressCode()))
                         .forEach(e -> addStreetEntityToCollection(
                                 processedDictionaryRecordCount,
@@ -211,7 +226,7 @@ public class DbfProcessingService {
             }
         } else if (federalAddressCodeLength != 0) {
             Settlement settlement =
-                    settlementRepository.getByAddressCode(externalAddressModel.getAddressCode());
+                    dictionaryLookupService.getSettlementByAddressCode(externalAddressModel.getAddressCode());
             if (settlement != null) {
                 addSettlementEntityToCollection(
                         processedDictionaryRecordCount,
@@ -220,7 +235,7 @@ public class DbfProcessingService {
                         settlements);
             } else {
                 // attempt to find by part address code (-2 last digits)
-                settlementRepository.findByAddressCode(
+                dictionaryLookupService.findSettlementsByAddressCode(
                         getPartOfAddressCode(externalAddressModel.getAddressCode()))
                         .forEach(e -> addSettlementEntityToCollection(
                                 processedDictionaryRecordCount,
@@ -0,0 +1,95 @@
+package com.training.addressesprocessing.service;
+
+import com.training.addressesprocessing.AddressesProcessingApplicationProperties;
+import com.training.addressesprocessing.cache.LookupCache;
+import com.training.addressesprocessing.domain.Settlement;
+import com.training.addressesprocessing.domain.Street;
+import com.training.addressesprocessing.repository.SettlementRepository;
+import com.training.addressesprocessing.repository.StreetRepository;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Service for searching in dictionaries through caches shared by all processing threads.
+ * Cached entities are never handed out, callers get own copies for modification
+ */
+@Service
+public class DictionaryLookupService {
+
+    private final SettlementRepository settlementRepository;
+    private final StreetRepository streetRepository;
+    private final LookupCache<String, Settlement> settlementCache;
+    private final LookupCache<String, List<Settlement>> settlementPrefixCache;
+    private final LookupCache<String, Street> streetCache;
+    private final LookupCache<String, List<Street>> streetPrefixCache;
+
+    public DictionaryLookupService(AddressesProcessingApplicationProperties applicationProperties,
+                                   SettlementRepository settlementRepository,
+                                   StreetRepository streetRepository) {
+        this.settlementRepository = settlementRepository;
+        this.streetRepository = streetRepository;
+        int cacheSize = applicationProperties.getLookupCacheSize();
+        this.settlementCache = new LookupCache<>(cacheSize);
+        this.settlementPrefixCache = new LookupCache<>(cacheSize);
+        this.streetCache = new LookupCache<>(cacheSize);
+        this.streetPrefixCache = new LookupCache<>(cacheSize);
+    }
+
+    /**
+     * Get settlement by full address code (null if not found)
+     */
+    public Settlement getSettlementByAddressCode(String addressCode) {
+        Settlement settlement = settlementCache.get(addressCode, settlementRepository::getByAddressCode);
+        return settlement != null ? new Settlement(settlement) : null;
+    }
+
+    /**
+     * Find settlements by part of address code
+     */
+    public List<Settlement> findSettlementsByAddressCode(String partOfAddressCode) {
+        return settlementPrefixCache.get(partOfAddressCode, settlementRepository::findByAddressCode)
+                .stream()
+                .map(Settlement::new)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Get street by full address code (null if not found)
+     */
+    public Street getStreetByAddressCode(String addressCode) {
+        Street street = streetCache.get(addressCode, streetRepository::getByAddressCode);
+        return street != null ? new Street(street) : null;
+    }
+
+    /**
+     * Find streets by part of address code
+     */
+    public List<Street> findStreetsByAddressCode(String partOfAddressCode) {
+        return streetPrefixCache.get(partOfAddressCode, streetRepository::findByAddressCode)
+                .stream()
+                .map(Street::new)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Clearing all caches and statistics (dictionaries could be changed between processing runs)
+     */
+    public void invalidateAll() {
+        settlementCache.invalidateAll();
+        settlementPrefixCache.invalidateAll();
+        streetCache.invalidateAll();
+        streetPrefixCache.invalidateAll();
+    }
+
+    /**
+     * Hit, miss and eviction statistics of all caches (since last invalidation)
+     */
+    public String getStatistics() {
+        return "Settlements: " + settlementCache
+                + "; settlements by part of code: " + settlementPrefixCache
+                + "; streets: " + streetCache
+                + "; streets by part of code: " + streetPrefixCache;
+    }
+}
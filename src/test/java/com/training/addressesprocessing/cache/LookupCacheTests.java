@@ -0,0 +1,176 @@
+package com.training.addressesprocessing.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LookupCacheTests {
+
+    private static final int THREAD_COUNT = 8;
+
+    @Test
+    void concurrentGetForSameKeyLoadsOnce() throws Exception {
+        LookupCache<String, String> cache = new LookupCache<>(10);
+        AtomicInteger loadCount = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoad = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < THREAD_COUNT; i++) {
+                results.add(executorService.submit(() -> {
+                    start.await();
+                    return cache.get("key", key -> {
+                        loadCount.incrementAndGet();
+                        loadStarted.countDown();
+                        awaitQuietly(releaseLoad);
+                        return "value";
+                    });
+                }));
+            }
+            start.countDown();
+            assertTrue(loadStarted.await(5, TimeUnit.SECONDS));
+            releaseLoad.countDown();
+            for (Future<String> result : results) {
+                assertEquals("value", result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+        assertEquals(1, loadCount.get());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(THREAD_COUNT - 1, cache.getHitCount());
+    }
+
+    @Test
+    void nullResultIsCachedAsMiss() {
+        LookupCache<String, String> cache = new LookupCache<>(10);
+        AtomicInteger loadCount = new AtomicInteger();
+
+        assertNull(cache.get("key", key -> {
+            loadCount.incrementAndGet();
+            return null;
+        }));
+        assertNull(cache.get("key", key -> {
+            loadCount.incrementAndGet();
+            return null;
+        }));
+
+        assertEquals(1, loadCount.get());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getSize());
+    }
+
+    @Test
+    void failedLoadIsRetried() {
+        LookupCache<String, String> cache = new LookupCache<>(10);
+
+        assertThrows(IllegalStateException.class, () -> cache.get("key", key -> {
+            throw new IllegalStateException();
+        }));
+        assertEquals(0, cache.getSize());
+        assertEquals("value", cache.get("key", key -> "value"));
+    }
+
+    @Test
+    void loadFailedWithErrorDoesNotBlockNextGet() {
+        LookupCache<String, String> cache = new LookupCache<>(10);
+
+        assertThrows(StackOverflowError.class, () -> cache.get("key", key -> {
+            throw new StackOverflowError();
+        }));
+        assertTimeoutPreemptively(Duration.ofSeconds(2),
+                () -> assertEquals("value", cache.get("key", key -> "value")));
+    }
+
+    @Test
+    void sizeIsBoundedAndReadEntrySurvivesEviction() {
+        LookupCache<String, String> cache = new LookupCache<>(2);
+        AtomicInteger loadCount = new AtomicInteger();
+
+        cache.get("first", key -> load(loadCount, key));
+        cache.get("second", key -> load(loadCount, key));
+        // read "first" so it gets second chance
+        cache.get("first", key -> load(loadCount, key));
+        cache.get("third", key -> load(loadCount, key));
+
+        assertEquals(2, cache.getSize());
+        assertEquals(1, cache.getEvictionCount());
+        assertEquals(3, loadCount.get());
+        cache.get("first", key -> load(loadCount, key));
+        assertEquals(3, loadCount.get());
+        cache.get("second", key -> load(loadCount, key));
+        assertEquals(4, loadCount.get());
+    }
+
+    @Test
+    void sizeIsBoundedUnderConcurrentLoads() throws Exception {
+        int maximumSize = 50;
+        LookupCache<Integer, Integer> cache = new LookupCache<>(maximumSize);
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int i = 0; i < THREAD_COUNT; i++) {
+                int offset = i;
+                results.add(executorService.submit(() -> {
+                    for (int key = 0; key < 1000; key++) {
+                        cache.get(key * THREAD_COUNT + offset, value -> value);
+                    }
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+        assertEquals(maximumSize, cache.getSize());
+        assertEquals(cache.getMissCount() - maximumSize, cache.getEvictionCount());
+    }
+
+    @Test
+    void invalidateAllResetsCache() {
+        LookupCache<String, String> cache = new LookupCache<>(10);
+        AtomicInteger loadCount = new AtomicInteger();
+        cache.get("key", key -> load(loadCount, key));
+        cache.get("key", key -> load(loadCount, key));
+
+        cache.invalidateAll();
+
+        assertEquals(0, cache.getSize());
+        assertEquals(0, cache.getHitCount());
+        assertEquals(0, cache.getMissCount());
+        assertEquals(0, cache.getEvictionCount());
+        cache.get("key", key -> load(loadCount, key));
+        assertEquals(2, loadCount.get());
+    }
+
+    private static String load(AtomicInteger loadCount, String key) {
+        loadCount.incrementAndGet();
+        return key;
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
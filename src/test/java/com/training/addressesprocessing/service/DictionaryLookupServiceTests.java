@@ -0,0 +1,96 @@
+package com.training.addressesprocessing.service;
+
+import com.training.addressesprocessing.AddressesProcessingApplicationProperties;
+import com.training.addressesprocessing.domain.Settlement;
+import com.training.addressesprocessing.domain.Street;
+import com.training.addressesprocessing.repository.SettlementRepository;
+import com.training.addressesprocessing.repository.StreetRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.BeanUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DictionaryLookupServiceTests {
+
+    private static final String ADDRESS_CODE = "7700000000000";
+
+    private SettlementRepository settlementRepository;
+    private StreetRepository streetRepository;
+    private DictionaryLookupService dictionaryLookupService;
+
+    @BeforeEach
+    void setUp() {
+        settlementRepository = mock(SettlementRepository.class);
+        streetRepository = mock(StreetRepository.class);
+        dictionaryLookupService = new DictionaryLookupService(
+                new AddressesProcessingApplicationProperties(),
+                settlementRepository,
+                streetRepository);
+    }
+
+    @Test
+    void settlementIsLoadedOnceAndReturnedAsCopy() {
+        Settlement cached = settlement();
+        when(settlementRepository.getByAddressCode(ADDRESS_CODE)).thenReturn(cached);
+
+        Settlement first = dictionaryLookupService.getSettlementByAddressCode(ADDRESS_CODE);
+        first.setFederalAddressCode("federal");
+        Settlement second = dictionaryLookupService.getSettlementByAddressCode(ADDRESS_CODE);
+
+        verify(settlementRepository, times(1)).getByAddressCode(ADDRESS_CODE);
+        assertNotSame(cached, first);
+        assertNotSame(first, second);
+        assertEquals(ADDRESS_CODE, second.getAddressCode());
+        assertNull(ReflectionTestUtils.getField(cached, "federalAddressCode"));
+        assertNull(ReflectionTestUtils.getField(second, "federalAddressCode"));
+    }
+
+    @Test
+    void streetsByPartOfCodeAreReturnedAsCopies() {
+        Street cached = street();
+        when(streetRepository.findByAddressCode(ADDRESS_CODE)).thenReturn(Collections.singletonList(cached));
+
+        List<Street> first = dictionaryLookupService.findStreetsByAddressCode(ADDRESS_CODE);
+        first.get(0).setFederalAddressCode("federal");
+        List<Street> second = dictionaryLookupService.findStreetsByAddressCode(ADDRESS_CODE);
+
+        verify(streetRepository, times(1)).findByAddressCode(ADDRESS_CODE);
+        assertNotSame(cached, first.get(0));
+        assertEquals(ADDRESS_CODE, second.get(0).getAddressCode());
+        assertNull(ReflectionTestUtils.getField(cached, "federalAddressCode"));
+        assertNull(ReflectionTestUtils.getField(second.get(0), "federalAddressCode"));
+    }
+
+    @Test
+    void missingSettlementIsCached() {
+        assertNull(dictionaryLookupService.getSettlementByAddressCode(ADDRESS_CODE));
+        assertNull(dictionaryLookupService.getSettlementByAddressCode(ADDRESS_CODE));
+
+        verify(settlementRepository, times(1)).getByAddressCode(ADDRESS_CODE);
+    }
+
+    private static Settlement settlement() {
+        Settlement settlement = BeanUtils.instantiateClass(Settlement.class);
+        ReflectionTestUtils.setField(settlement, "id", 1);
+        ReflectionTestUtils.setField(settlement, "addressCode", ADDRESS_CODE);
+        return settlement;
+    }
+
+    private static Street street() {
+        Street street = BeanUtils.instantiateClass(Street.class);
+        ReflectionTestUtils.setField(street, "id", 1);
+        ReflectionTestUtils.setField(street, "addressCode", ADDRESS_CODE);
+        return street;
+    }
+}